@@ -14,7 +14,10 @@ import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Component;
 import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -23,6 +26,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
@@ -30,6 +34,7 @@ import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -37,6 +42,10 @@ import java.util.zip.CRC32;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.InflaterInputStream;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.event.IIOReadProgressListener;
+import javax.imageio.event.IIOReadUpdateListener;
+import javax.imageio.stream.ImageInputStream;
 import javax.swing.DefaultListModel;
 import javax.swing.ImageIcon;
 import javax.swing.JList;
@@ -86,6 +95,8 @@ public class BurpExtender implements BurpExtension, HttpResponseEditorProvider,
 
     private static final class ImageResponseEditor implements ExtensionProvidedHttpResponseEditor {
         private static final int MAX_EXTRACTED_IMAGES = 24;
+        private static final long PREVIEW_UPDATE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+        private static final int PREVIEW_MAX_DIMENSION = 800;
 
         private final Logging log;
         private final ExecutorService worker;
@@ -198,7 +209,19 @@ public class BurpExtender implements BurpExtension, HttpResponseEditorProvider,
         private void renderAsync(HttpResponse response, long version) {
             try {
                 byte[] body = decodeBody(response.body().getBytes(), response.headerValue("Content-Encoding"));
-                List<ImageEntry> images = ImageExtractor.extract(body, response.headerValue("Content-Type"), MAX_EXTRACTED_IMAGES);
+                BufferedImage bodyImage = null;
+                if (body != null
+                        && body.length <= ImageExtractor.MAX_DECODED_IMAGE_BYTES
+                        && MagicSniffer.looksLikeImage(body, 0)) {
+                    bodyImage = readImageProgressively(body, version);
+                }
+
+                if (isStale(version)) {
+                    return;
+                }
+
+                List<ImageEntry> images = ImageExtractor.extract(
+                        body, response.headerValue("Content-Type"), bodyImage, MAX_EXTRACTED_IMAGES);
 
                 if (isStale(version)) {
                     return;
@@ -220,6 +243,50 @@ public class BurpExtender implements BurpExtension, HttpResponseEditorProvider,
             return version != renderVersion.get();
         }
 
+        /**
+         * Decodes the body image through an {@link ImageReader} so progressive JPEG scans and
+         * Adam7 PNG passes can be previewed while decoding, and so a newer render can abort it.
+         * Returns null when no reader claims the body or the render went stale; decode failures are thrown.
+         */
+        private BufferedImage readImageProgressively(byte[] raw, long version) throws IOException {
+            try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(raw))) {
+                if (in == null) {
+                    return null;
+                }
+                Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+                if (!readers.hasNext()) {
+                    return null;
+                }
+
+                ImageReader reader = readers.next();
+                try {
+                    if (isStale(version)) {
+                        return null;
+                    }
+                    reader.setInput(in, true, true);
+                    ProgressivePreview preview = new ProgressivePreview(reader, version);
+                    reader.addIIOReadProgressListener(preview);
+                    reader.addIIOReadUpdateListener(preview);
+                    BufferedImage image = reader.read(0);
+                    return isStale(version) ? null : image;
+                } finally {
+                    reader.dispose();
+                }
+            }
+        }
+
+        private void updateProgressivePreviewOnEdt(long version, BufferedImage snapshot) {
+            SwingUtilities.invokeLater(() -> {
+                if (isStale(version) || !imageListModel.isEmpty()) {
+                    return;
+                }
+                previewLabel.setText("");
+                previewLabel.setIcon(new ImageIcon(snapshot));
+                statusLabel.setText("Decoding image...");
+                statusLabel.setForeground(Color.GRAY);
+            });
+        }
+
         private void updateGalleryOnEdt(long version, List<ImageEntry> images) {
             SwingUtilities.invokeLater(() -> {
                 if (isStale(version)) {
@@ -331,6 +398,216 @@ public class BurpExtender implements BurpExtension, HttpResponseEditorProvider,
             return out.toByteArray();
         }
 
+        /**
+         * Publishes throttled, downscaled snapshots of the partially decoded image between passes and
+         * aborts the reader from its own thread as soon as the render it belongs to goes stale.
+         * Only full-frame passes (progressive JPEG) and Adam7 passes are previewed; other interlacing
+         * schemes such as GIF's row interlace are left to the final image.
+         */
+        private final class ProgressivePreview implements IIOReadProgressListener, IIOReadUpdateListener {
+            private static final int[][] ADAM7_BLOCKS = {{8, 8}, {4, 8}, {4, 4}, {2, 4}, {2, 2}, {1, 2}, {1, 1}};
+
+            private final ImageReader reader;
+            private final long version;
+            private boolean classified;
+            private boolean previewable;
+            private boolean adam7;
+            private int currentPass;
+            private int completedPass = -1;
+            private boolean published;
+            private long lastPublishNanos;
+
+            private ProgressivePreview(ImageReader reader, long version) {
+                this.reader = reader;
+                this.version = version;
+            }
+
+            @Override
+            public void imageStarted(ImageReader source, int imageIndex) {
+                // Readers clear pending aborts when read() starts, so staleness is re-checked here.
+                abortIfStale();
+            }
+
+            @Override
+            public void imageProgress(ImageReader source, float percentageDone) {
+                abortIfStale();
+            }
+
+            @Override
+            public void passStarted(
+                    ImageReader source,
+                    BufferedImage theImage,
+                    int pass,
+                    int minPass,
+                    int maxPass,
+                    int minX,
+                    int minY,
+                    int periodX,
+                    int periodY,
+                    int[] bands) {
+                currentPass = pass;
+                if (abortIfStale()) {
+                    return;
+                }
+                if (!classified) {
+                    classified = true;
+                    adam7 = periodX == 8 && periodY == 8;
+                    previewable = adam7 || (periodX == 1 && periodY == 1);
+                }
+
+                // Publishing only once the next pass starts keeps single-pass images and final passes
+                // from being copied, since the finished image reaches the gallery anyway.
+                int previousPass = completedPass;
+                completedPass = -1;
+                if (previousPass < 0 || !previewable) {
+                    return;
+                }
+
+                long now = System.nanoTime();
+                if (published && now - lastPublishNanos < PREVIEW_UPDATE_INTERVAL_NANOS) {
+                    return;
+                }
+                published = true;
+                lastPublishNanos = now;
+
+                int[] block = adam7 ? ADAM7_BLOCKS[previousPass] : null;
+                updateProgressivePreviewOnEdt(version, snapshot(theImage, block));
+            }
+
+            @Override
+            public void passComplete(ImageReader source, BufferedImage theImage) {
+                completedPass = currentPass;
+            }
+
+            @Override
+            public void imageUpdate(
+                    ImageReader source,
+                    BufferedImage theImage,
+                    int minX,
+                    int minY,
+                    int width,
+                    int height,
+                    int periodX,
+                    int periodY,
+                    int[] bands) {
+            }
+
+            @Override
+            public void thumbnailPassStarted(
+                    ImageReader source,
+                    BufferedImage theThumbnail,
+                    int pass,
+                    int minPass,
+                    int maxPass,
+                    int minX,
+                    int minY,
+                    int periodX,
+                    int periodY,
+                    int[] bands) {
+            }
+
+            @Override
+            public void thumbnailUpdate(
+                    ImageReader source,
+                    BufferedImage theThumbnail,
+                    int minX,
+                    int minY,
+                    int width,
+                    int height,
+                    int periodX,
+                    int periodY,
+                    int[] bands) {
+            }
+
+            @Override
+            public void thumbnailPassComplete(ImageReader source, BufferedImage theThumbnail) {
+            }
+
+            @Override
+            public void sequenceStarted(ImageReader source, int minIndex) {
+            }
+
+            @Override
+            public void sequenceComplete(ImageReader source) {
+            }
+
+            @Override
+            public void imageComplete(ImageReader source) {
+            }
+
+            @Override
+            public void thumbnailStarted(ImageReader source, int imageIndex, int thumbnailIndex) {
+            }
+
+            @Override
+            public void thumbnailProgress(ImageReader source, float percentageDone) {
+            }
+
+            @Override
+            public void thumbnailComplete(ImageReader source) {
+            }
+
+            @Override
+            public void readAborted(ImageReader source) {
+            }
+
+            private boolean abortIfStale() {
+                if (isStale(version)) {
+                    reader.abort();
+                    return true;
+                }
+                return false;
+            }
+
+            /**
+             * Copies the destination image into a preview no larger than {@code PREVIEW_MAX_DIMENSION},
+             * so the EDT never paints a buffer the reader is still writing and each snapshot stays small.
+             * For Adam7 passes each preview pixel samples the decoded pixel at the top-left of its block.
+             */
+            private BufferedImage snapshot(BufferedImage image, int[] block) {
+                int width = image.getWidth();
+                int height = image.getHeight();
+                double scale = Math.min(1.0, (double) PREVIEW_MAX_DIMENSION / Math.max(width, height));
+                int previewWidth = Math.max(1, (int) Math.round(width * scale));
+                int previewHeight = Math.max(1, (int) Math.round(height * scale));
+                int type = image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+                BufferedImage preview = new BufferedImage(previewWidth, previewHeight, type);
+
+                if (block == null) {
+                    Graphics2D g = preview.createGraphics();
+                    try {
+                        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                        g.drawImage(image, 0, 0, previewWidth, previewHeight, null);
+                    } finally {
+                        g.dispose();
+                    }
+                    return preview;
+                }
+
+                int[] sourceX = new int[previewWidth];
+                for (int x = 0; x < previewWidth; x++) {
+                    int sx = (int) ((long) x * width / previewWidth);
+                    sourceX[x] = sx - (sx % block[0]);
+                }
+                int[] pixels = ((DataBufferInt) preview.getRaster().getDataBuffer()).getData();
+                int previousSourceY = -1;
+                for (int y = 0; y < previewHeight; y++) {
+                    int sy = (int) ((long) y * height / previewHeight);
+                    sy -= sy % block[1];
+                    int offset = y * previewWidth;
+                    if (sy == previousSourceY) {
+                        System.arraycopy(pixels, offset - previewWidth, pixels, offset, previewWidth);
+                        continue;
+                    }
+                    for (int x = 0; x < previewWidth; x++) {
+                        pixels[offset + x] = image.getRGB(sourceX[x], sy);
+                    }
+                    previousSourceY = sy;
+                }
+                return preview;
+            }
+        }
+
         private static final class ImageEntry {
             private final String label;
             private final String details;
@@ -351,7 +628,7 @@ public class BurpExtender implements BurpExtension, HttpResponseEditorProvider,
         private static final class ImageExtractor {
             private static final int MAX_TEXT_SCAN_BYTES = 2 * 1024 * 1024;
             private static final int MIN_BASE64_LENGTH = 96;
-            private static final int MAX_DECODED_IMAGE_BYTES = 8 * 1024 * 1024;
+            static final int MAX_DECODED_IMAGE_BYTES = 8 * 1024 * 1024;
             private static final Pattern DATA_URI_BASE64_PATTERN = Pattern.compile(
                     "data:image/([a-zA-Z0-9.+-]+);base64,([A-Za-z0-9+/=_%\\\\\\s-]{32,})",
                     Pattern.CASE_INSENSITIVE);
@@ -377,14 +654,19 @@ public class BurpExtender implements BurpExtension, HttpResponseEditorProvider,
                         || sample.contains("r0lgod");
             }
 
-            static List<ImageEntry> extract(byte[] body, String contentType, int maxImages) {
+            static List<ImageEntry> extract(byte[] body, String contentType, BufferedImage bodyImage, int maxImages) {
                 List<ImageEntry> images = new ArrayList<>();
                 if (body == null || body.length == 0) {
                     return images;
                 }
 
                 Set<String> seenFingerprints = new LinkedHashSet<>();
-                addDecodedImage(images, seenFingerprints, "Body image", contentType, body, maxImages);
+                if (bodyImage != null && maxImages > 0) {
+                    seenFingerprints.add(fingerprint(body));
+                    addImage(images, "Body image", contentType, body.length, bodyImage);
+                } else {
+                    addDecodedImage(images, seenFingerprints, "Body image", contentType, body, maxImages);
+                }
 
                 if (images.size() >= maxImages || !isLikelyText(contentType, body)) {
                     return images;
@@ -475,6 +757,12 @@ public class BurpExtender implements BurpExtension, HttpResponseEditorProvider,
                     return false;
                 }
 
+                addImage(images, source, contentType, raw.length, image);
+                return true;
+            }
+
+            private static void addImage(
+                    List<ImageEntry> images, String source, String contentType, int rawLength, BufferedImage image) {
                 String label = source + " (" + image.getWidth() + "x" + image.getHeight() + ")";
                 String details = source
                         + " | "
@@ -484,10 +772,9 @@ public class BurpExtender implements BurpExtension, HttpResponseEditorProvider,
                         + "x"
                         + image.getHeight()
                         + " | "
-                        + raw.length
+                        + rawLength
                         + " bytes";
                 images.add(new ImageEntry(label, details, new ImageIcon(image)));
-                return true;
             }
 
             private static String fingerprint(byte[] bytes) {